@@ -0,0 +1,69 @@
+package demo.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous client for the /v1/items REST API.  Response bodies are discarded as only status and latency are of
+ * interest.
+ */
+public class ItemsClient {
+
+    private final HttpClient httpClient;
+    private final String itemsUrl;
+    private final Duration requestTimeout;
+
+    public ItemsClient(String baseUrl, HttpClient.Version httpVersion, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(requestTimeout)
+                .build();
+        this.itemsUrl = baseUrl + "/v1/items";
+        this.requestTimeout = requestTimeout;
+    }
+
+    public CompletableFuture<HttpResponse<Void>> createItem(String name) {
+        return send(request(itemsUrl)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(name))));
+    }
+
+    public CompletableFuture<HttpResponse<Void>> getItem(String itemId) {
+        return send(request(itemsUrl + "/" + itemId).GET());
+    }
+
+    public CompletableFuture<HttpResponse<Void>> updateItem(String itemId, String name) {
+        return send(request(itemsUrl + "/" + itemId)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body(name))));
+    }
+
+    public CompletableFuture<HttpResponse<Void>> deleteItem(String itemId) {
+        return send(request(itemsUrl + "/" + itemId).DELETE());
+    }
+
+    /**
+     * The service returns the new item id as the Location header.
+     */
+    public static String createdItemId(HttpResponse<?> response) {
+        return response.headers().firstValue("Location")
+                .map(location -> location.substring(location.lastIndexOf('/') + 1))
+                .orElse(null);
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(requestTimeout);
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(HttpRequest.Builder request) {
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static String body(String name) {
+        return "{\"name\":\"" + name + "\"}";
+    }
+}
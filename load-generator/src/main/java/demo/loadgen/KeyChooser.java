@@ -0,0 +1,19 @@
+package demo.loadgen;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses the key space slot, from 0 to size - 1, that an operation targets.
+ */
+public interface KeyChooser {
+
+    int next(RandomGenerator random);
+
+    static KeyChooser of(String distribution, int size, double zipfianExponent) {
+        return switch(distribution.toLowerCase()) {
+            case "uniform" -> new UniformKeyChooser(size);
+            case "zipfian" -> new ZipfianKeyChooser(size, zipfianExponent);
+            default -> throw new IllegalArgumentException("Unknown key distribution: " + distribution);
+        };
+    }
+}
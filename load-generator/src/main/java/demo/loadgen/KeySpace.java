@@ -0,0 +1,59 @@
+package demo.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed number of slots, each holding the id of a live item or null once deleted.  Creates fill the chosen slot,
+ * deletes empty it, and reads and updates of an empty slot target an id that does not exist, so the service sees the
+ * not found traffic a real hot set would generate.
+ *
+ * A create into an occupied slot replaces its item, which the caller must keep track of to remove at the end of the
+ * run.
+ */
+public class KeySpace {
+
+    public static final String MISSING_ITEM_ID = "000000000000000000000000";
+
+    private final AtomicReferenceArray<String> slots;
+
+    public KeySpace(int size) {
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    public int size() {
+        return slots.length();
+    }
+
+    public String get(int slot) {
+        String itemId = slots.get(slot);
+        return itemId != null ? itemId : MISSING_ITEM_ID;
+    }
+
+    /**
+     * Returns the id of the item previously in the slot, or null if it was empty.
+     */
+    public String put(int slot, String itemId) {
+        return slots.getAndSet(slot, itemId);
+    }
+
+    public String remove(int slot) {
+        String itemId = slots.getAndSet(slot, null);
+        return itemId != null ? itemId : MISSING_ITEM_ID;
+    }
+
+    /**
+     * Empties every slot, returning the ids of the items they held.
+     */
+    public List<String> clear() {
+        List<String> itemIds = new ArrayList<>();
+        for(int slot = 0; slot < slots.length(); slot++) {
+            String itemId = slots.getAndSet(slot, null);
+            if(itemId != null) {
+                itemIds.add(itemId);
+            }
+        }
+        return itemIds;
+    }
+}
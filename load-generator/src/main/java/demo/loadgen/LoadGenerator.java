@@ -0,0 +1,177 @@
+package demo.loadgen;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Drives the /v1/items REST API with a synthetic CRUD workload at a fixed target rate.
+ *
+ * Pacing is open loop: each request has an intended start time on a fixed schedule and is sent asynchronously, so a
+ * slow response never delays the requests behind it.  If the generator falls behind it sends immediately, and
+ * latency is still measured from the intended start time.
+ *
+ * The operation and key sequence is driven by a seeded random, so runs with the same configuration replay the same
+ * workload.  Every item the run creates is deleted at the end, so the collection is left as it was found.
+ */
+public class LoadGenerator {
+
+    private static final int SETUP_BATCH_SIZE = 100;
+
+    private final LoadGeneratorConfig config;
+    private final ItemsClient client;
+    private final OperationMix mix;
+    private final KeyChooser keyChooser;
+    private final KeySpace keySpace;
+    private final AtomicLong nameSequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<String> replacedItemIds = new ConcurrentLinkedQueue<>();
+
+    public LoadGenerator(LoadGeneratorConfig config) {
+        this.config = config;
+        this.client = new ItemsClient(config.getBaseUrl(), config.getHttpVersion(), config.getRequestTimeout());
+        this.mix = OperationMix.parse(config.getMix());
+        this.keyChooser = KeyChooser.of(config.getKeyDistribution(), config.getKeySpace(), config.getZipfianExponent());
+        this.keySpace = new KeySpace(config.getKeySpace());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(args);
+        System.out.println("Starting load generator: " + config);
+        new LoadGenerator(config).run();
+    }
+
+    public void run() throws Exception {
+        try {
+            populate();
+            try(ResultsRecorder recorder = new ResultsRecorder(config.getOutputDir(), config.getRunName())) {
+                ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+                reporter.scheduleAtFixedRate(recorder::writeInterval, 1, 1, TimeUnit.SECONDS);
+                try {
+                    drive(recorder);
+                    awaitInFlight();
+                } finally {
+                    reporter.shutdown();
+                    reporter.awaitTermination(5, TimeUnit.SECONDS);
+                }
+            }
+            System.out.println("Results written to: " + config.getOutputDir().toAbsolutePath());
+        } finally {
+            cleanUp();
+        }
+    }
+
+    /**
+     * Creates an item in every key space slot before the run starts.  This is not measured.
+     */
+    private void populate() {
+        System.out.println("Populating " + keySpace.size() + " items");
+        inBatches(keySpace.size(), slot -> client.createItem(nextName())
+                .thenAccept(response -> keySpace.put(slot, ItemsClient.createdItemId(response))));
+    }
+
+    /**
+     * Deletes the items left in the key space and those replaced by creates during the run.  This is not measured,
+     * and failures are ignored so a partially populated key space is still cleaned up.
+     */
+    private void cleanUp() {
+        List<String> itemIds = keySpace.clear();
+        itemIds.addAll(replacedItemIds);
+        replacedItemIds.clear();
+        System.out.println("Deleting " + itemIds.size() + " items created by the run");
+        inBatches(itemIds.size(), index -> client.deleteItem(itemIds.get(index)).exceptionally(error -> null));
+    }
+
+    private void inBatches(int count, IntFunction<CompletableFuture<?>> request) {
+        for(int batchStart = 0; batchStart < count; batchStart += SETUP_BATCH_SIZE) {
+            List<CompletableFuture<?>> batch = new ArrayList<>();
+            for(int index = batchStart; index < Math.min(batchStart + SETUP_BATCH_SIZE, count); index++) {
+                batch.add(request.apply(index));
+            }
+            CompletableFuture.allOf(batch.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
+    /**
+     * Issues requests on the fixed schedule until the end of the run.  Only requests scheduled after the warmup are
+     * recorded.
+     */
+    private void drive(ResultsRecorder recorder) {
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        long intervalNanos = config.getIntervalNanos();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + config.getWarmup().toNanos();
+        long endNanos = measureFromNanos + config.getDuration().toNanos();
+        long maxLagNanos = 0;
+
+        for(long sequence = 0; ; sequence++) {
+            long intendedStartNanos = startNanos + sequence * intervalNanos;
+            if(intendedStartNanos >= endNanos) {
+                break;
+            }
+            long now;
+            while((now = System.nanoTime()) < intendedStartNanos) {
+                LockSupport.parkNanos(intendedStartNanos - now);
+            }
+            maxLagNanos = Math.max(maxLagNanos, now - intendedStartNanos);
+
+            Operation operation = mix.next(random);
+            int slot = keyChooser.next(random);
+            boolean measured = intendedStartNanos >= measureFromNanos;
+            dispatch(operation, slot, intendedStartNanos, measured ? recorder : null);
+        }
+        System.out.printf("Maximum send lag behind schedule: %.3f ms%n", maxLagNanos / 1_000_000.0);
+    }
+
+    /**
+     * Requests time out after the request timeout, so all in flight requests complete well within twice that.
+     */
+    private void awaitInFlight() {
+        long deadlineNanos = System.nanoTime() + config.getRequestTimeout().toNanos() * 2;
+        while(inFlight.get() > 0 && System.nanoTime() < deadlineNanos) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void dispatch(Operation operation, int slot, long intendedStartNanos, ResultsRecorder recorder) {
+        inFlight.incrementAndGet();
+        long actualStartNanos = System.nanoTime();
+        CompletableFuture<HttpResponse<Void>> response = switch(operation) {
+            case CREATE -> client.createItem(nextName())
+                    .whenComplete((result, error) -> {
+                        if(result != null && result.statusCode() == 201) {
+                            String replacedItemId = keySpace.put(slot, ItemsClient.createdItemId(result));
+                            if(replacedItemId != null) {
+                                replacedItemIds.add(replacedItemId);
+                            }
+                        }
+                    });
+            case GET -> client.getItem(keySpace.get(slot));
+            case UPDATE -> client.updateItem(keySpace.get(slot), nextName());
+            case DELETE -> client.deleteItem(keySpace.remove(slot));
+        };
+        response.whenComplete((result, error) -> {
+            if(recorder != null) {
+                // Failed requests, including timeouts, are recorded with their latency and counted as errors.
+                int statusCode = error != null ? ResultsRecorder.FAILED_REQUEST : result.statusCode();
+                recorder.record(operation, intendedStartNanos, actualStartNanos, System.nanoTime(), statusCode);
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private String nextName() {
+        return "load-item-" + nameSequence.incrementAndGet();
+    }
+}
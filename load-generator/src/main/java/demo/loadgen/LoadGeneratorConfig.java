@@ -0,0 +1,97 @@
+package demo.loadgen;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Workload settings, read from 'key=value' arguments.  A 'config=<file>' argument loads a properties file first, so a
+ * workload can be kept in a file and re-run unchanged, with individual arguments overriding it.
+ */
+@Builder
+@Getter
+@ToString
+public class LoadGeneratorConfig {
+
+    private final String baseUrl;
+    private final double rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final String mix;
+    private final String keyDistribution;
+    private final int keySpace;
+    private final double zipfianExponent;
+    private final long seed;
+    private final HttpClient.Version httpVersion;
+    private final Duration requestTimeout;
+    private final Path outputDir;
+    private final String runName;
+
+    public static LoadGeneratorConfig fromArgs(String[] args) throws IOException {
+        Properties properties = new Properties();
+        for(String arg : args) {
+            if(arg.startsWith("config=")) {
+                try(Reader reader = Files.newBufferedReader(Path.of(arg.substring("config=".length())))) {
+                    properties.load(reader);
+                }
+            }
+        }
+        for(String arg : args) {
+            int separator = arg.indexOf('=');
+            if(separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument: " + arg);
+            }
+            properties.setProperty(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return fromProperties(properties);
+    }
+
+    public static LoadGeneratorConfig fromProperties(Properties properties) {
+        LoadGeneratorConfig config = LoadGeneratorConfig.builder()
+                .baseUrl(properties.getProperty("baseUrl", "http://localhost:9001"))
+                .rate(Double.parseDouble(properties.getProperty("rate", "100")))
+                .duration(Duration.ofSeconds(Long.parseLong(properties.getProperty("durationSeconds", "60"))))
+                .warmup(Duration.ofSeconds(Long.parseLong(properties.getProperty("warmupSeconds", "10"))))
+                .mix(properties.getProperty("mix", "create:10,get:70,update:15,delete:5"))
+                .keyDistribution(properties.getProperty("keyDistribution", "uniform"))
+                .keySpace(Integer.parseInt(properties.getProperty("keySpace", "1000")))
+                .zipfianExponent(Double.parseDouble(properties.getProperty("zipfianExponent", "0.99")))
+                .seed(Long.parseLong(properties.getProperty("seed", "42")))
+                .httpVersion(HttpClient.Version.valueOf(properties.getProperty("httpVersion", "HTTP_1_1")))
+                .requestTimeout(Duration.ofSeconds(Long.parseLong(properties.getProperty("requestTimeoutSeconds", "10"))))
+                .outputDir(Path.of(properties.getProperty("outputDir", "target/loadgen")))
+                .runName(properties.getProperty("runName", "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))))
+                .build();
+        if(config.rate <= 0 || config.getIntervalNanos() <= 0) {
+            throw new IllegalArgumentException("Rate must be positive and at most one request per nanosecond: " + config.rate);
+        }
+        if(config.duration.isNegative() || config.warmup.isNegative()) {
+            throw new IllegalArgumentException("Duration and warmup must not be negative: " + config.duration + ", " + config.warmup);
+        }
+        if(config.keySpace <= 0) {
+            throw new IllegalArgumentException("Key space size must be positive: " + config.keySpace);
+        }
+        if(config.requestTimeout.isNegative() || config.requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout must be positive: " + config.requestTimeout);
+        }
+        return config;
+    }
+
+    /**
+     * Time between intended request start times.
+     */
+    public long getIntervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+}
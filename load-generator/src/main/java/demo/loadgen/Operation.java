@@ -0,0 +1,12 @@
+package demo.loadgen;
+
+public enum Operation {
+    CREATE,
+    GET,
+    UPDATE,
+    DELETE;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
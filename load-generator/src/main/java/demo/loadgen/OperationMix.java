@@ -0,0 +1,55 @@
+package demo.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice of operation, parsed from a mix such as 'create:10,get:70,update:15,delete:5'.  Weights are
+ * relative so need not sum to 100.
+ */
+public class OperationMix {
+
+    private final Operation[] operations;
+    private final double[] cumulativeWeights;
+
+    public OperationMix(Map<Operation, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if(total <= 0) {
+            throw new IllegalArgumentException("Operation mix must have a positive total weight: " + weights);
+        }
+        operations = weights.keySet().toArray(new Operation[0]);
+        cumulativeWeights = new double[operations.length];
+        double cumulative = 0;
+        for(int i = 0; i < operations.length; i++) {
+            cumulative += (double) weights.get(operations[i]) / total;
+            cumulativeWeights[i] = cumulative;
+        }
+    }
+
+    public static OperationMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for(String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if(parts.length != 2) {
+                throw new IllegalArgumentException("Invalid operation mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if(weight < 0) {
+                throw new IllegalArgumentException("Operation weight must not be negative: " + entry);
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        double value = random.nextDouble();
+        for(int i = 0; i < operations.length - 1; i++) {
+            if(value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
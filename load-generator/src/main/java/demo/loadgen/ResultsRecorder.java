@@ -0,0 +1,155 @@
+package demo.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records latencies per operation type, in microseconds, as two HdrHistograms:
+ * - response time, measured from when the request was scheduled to be sent, so any delay in sending is charged to
+ *   the request and coordinated omission does not hide it.
+ * - service time, measured from when the request was actually sent.
+ *
+ * Interval histograms are written to '<runName>-response.hlog' and '<runName>-service.hlog', tagged by operation, for
+ * use with HdrHistogram's HistogramLogProcessor.  On close the totals are written as a percentile distribution per
+ * operation ('<runName>-<operation>.hgrm') and a summary CSV for comparing runs.
+ */
+public class ResultsRecorder implements AutoCloseable {
+
+    public static final int FAILED_REQUEST = -1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Path outputDir;
+    private final String runName;
+    private final Map<Operation, OperationResults> results = new EnumMap<>(Operation.class);
+    private final HistogramLogWriter responseLog;
+    private final HistogramLogWriter serviceLog;
+
+    public ResultsRecorder(Path outputDir, String runName) throws IOException {
+        this.outputDir = Files.createDirectories(outputDir);
+        this.runName = runName;
+        for(Operation operation : Operation.values()) {
+            results.put(operation, new OperationResults());
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        responseLog = logWriter("response", startTimeMillis);
+        serviceLog = logWriter("service", startTimeMillis);
+    }
+
+    public void record(Operation operation, long intendedStartNanos, long actualStartNanos, long endNanos, int statusCode) {
+        OperationResults operationResults = results.get(operation);
+        operationResults.responseTime.recordValue(toMicros(endNanos - intendedStartNanos));
+        operationResults.serviceTime.recordValue(toMicros(endNanos - actualStartNanos));
+        if(statusCode >= 200 && statusCode < 300) {
+            operationResults.successes.increment();
+        } else if(statusCode == 404) {
+            operationResults.notFounds.increment();
+        } else {
+            operationResults.errors.increment();
+        }
+    }
+
+    /**
+     * Called once per reporting interval from a single thread, as HistogramLogWriter is not thread safe.
+     */
+    public synchronized void writeInterval() {
+        for(Map.Entry<Operation, OperationResults> entry : results.entrySet()) {
+            OperationResults operationResults = entry.getValue();
+            operationResults.responseInterval = operationResults.responseTime.getIntervalHistogram(operationResults.responseInterval);
+            operationResults.serviceInterval = operationResults.serviceTime.getIntervalHistogram(operationResults.serviceInterval);
+            operationResults.responseTotal.add(operationResults.responseInterval);
+            operationResults.serviceTotal.add(operationResults.serviceInterval);
+            writeTagged(responseLog, operationResults.responseInterval, entry.getKey());
+            writeTagged(serviceLog, operationResults.serviceInterval, entry.getKey());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writeInterval();
+        responseLog.close();
+        serviceLog.close();
+        for(Map.Entry<Operation, OperationResults> entry : results.entrySet()) {
+            try(PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(runName + "-" + entry.getKey().tag() + ".hgrm")))) {
+                entry.getValue().responseTotal.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        try(PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(runName + "-summary.csv")))) {
+            writeSummary(out);
+        }
+        writeSummary(System.out);
+    }
+
+    private void writeSummary(PrintStream out) {
+        out.println("operation,count,successes,notFounds,errors,responseP50Ms,responseP90Ms,responseP99Ms,responseP999Ms,responseMaxMs,serviceP50Ms,serviceP99Ms,serviceMaxMs");
+        for(Map.Entry<Operation, OperationResults> entry : results.entrySet()) {
+            OperationResults operationResults = entry.getValue();
+            Histogram response = operationResults.responseTotal;
+            Histogram service = operationResults.serviceTotal;
+            out.printf("%s,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    entry.getKey().tag(),
+                    response.getTotalCount(),
+                    operationResults.successes.sum(),
+                    operationResults.notFounds.sum(),
+                    operationResults.errors.sum(),
+                    millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(service.getValueAtPercentile(50)),
+                    millis(service.getValueAtPercentile(99)),
+                    millis(service.getMaxValue()));
+        }
+    }
+
+    private HistogramLogWriter logWriter(String kind, long startTimeMillis) throws IOException {
+        HistogramLogWriter writer = new HistogramLogWriter(outputDir.resolve(runName + "-" + kind + ".hlog").toFile());
+        writer.outputComment("[" + runName + " " + kind + " time in microseconds, tagged by operation]");
+        writer.outputLogFormatVersion();
+        writer.setBaseTime(startTimeMillis);
+        writer.outputBaseTime(startTimeMillis);
+        writer.outputStartTime(startTimeMillis);
+        writer.outputLegend();
+        return writer;
+    }
+
+    private static void writeTagged(HistogramLogWriter writer, Histogram interval, Operation operation) {
+        if(interval.getTotalCount() > 0) {
+            interval.setTag(operation.tag());
+            writer.outputIntervalHistogram(interval);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static class OperationResults {
+        private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram responseTotal = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTotal = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder notFounds = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private Histogram responseInterval;
+        private Histogram serviceInterval;
+    }
+}
@@ -0,0 +1,20 @@
+package demo.loadgen;
+
+import java.util.random.RandomGenerator;
+
+public class UniformKeyChooser implements KeyChooser {
+
+    private final int size;
+
+    public UniformKeyChooser(int size) {
+        if(size <= 0) {
+            throw new IllegalArgumentException("Key space size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public int next(RandomGenerator random) {
+        return random.nextInt(size);
+    }
+}
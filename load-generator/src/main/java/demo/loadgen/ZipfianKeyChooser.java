@@ -0,0 +1,37 @@
+package demo.loadgen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipfian distribution over the key space, where slot 0 is the hottest key and the probability of slot i is
+ * proportional to 1 / (i + 1)^exponent.  An exponent of 0.99 matches the YCSB default hot set.
+ *
+ * The cumulative distribution is precomputed so each choice is a binary search.
+ */
+public class ZipfianKeyChooser implements KeyChooser {
+
+    private final double[] cumulativeProbabilities;
+
+    public ZipfianKeyChooser(int size, double exponent) {
+        if(size <= 0) {
+            throw new IllegalArgumentException("Key space size must be positive: " + size);
+        }
+        cumulativeProbabilities = new double[size];
+        double cumulative = 0;
+        for(int i = 0; i < size; i++) {
+            cumulative += 1 / Math.pow(i + 1, exponent);
+            cumulativeProbabilities[i] = cumulative;
+        }
+        for(int i = 0; i < size; i++) {
+            cumulativeProbabilities[i] /= cumulative;
+        }
+    }
+
+    @Override
+    public int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        int slot = index >= 0 ? index : -index - 1;
+        return Math.min(slot, cumulativeProbabilities.length - 1);
+    }
+}
@@ -0,0 +1,41 @@
+package demo.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class KeySpaceTest {
+
+    @Test
+    public void testPut_ReturnsReplacedItem() {
+        KeySpace keySpace = new KeySpace(2);
+
+        assertThat(keySpace.put(0, "item-1"), nullValue());
+        assertThat(keySpace.put(0, "item-2"), equalTo("item-1"));
+        assertThat(keySpace.get(0), equalTo("item-2"));
+    }
+
+    @Test
+    public void testRemove() {
+        KeySpace keySpace = new KeySpace(2);
+        keySpace.put(0, "item-1");
+
+        assertThat(keySpace.remove(0), equalTo("item-1"));
+        assertThat(keySpace.get(0), equalTo(KeySpace.MISSING_ITEM_ID));
+        assertThat(keySpace.remove(0), equalTo(KeySpace.MISSING_ITEM_ID));
+    }
+
+    @Test
+    public void testClear() {
+        KeySpace keySpace = new KeySpace(3);
+        keySpace.put(0, "item-1");
+        keySpace.put(2, "item-3");
+
+        assertThat(keySpace.clear(), containsInAnyOrder("item-1", "item-3"));
+        assertThat(keySpace.clear(), empty());
+    }
+}
@@ -0,0 +1,79 @@
+package demo.loadgen;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadGeneratorConfigTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testFromArgs_Defaults() throws Exception {
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(new String[0]);
+
+        assertThat(config.getBaseUrl(), equalTo("http://localhost:9001"));
+        assertThat(config.getRate(), equalTo(100.0));
+        assertThat(config.getIntervalNanos(), equalTo(10_000_000L));
+        assertThat(config.getDuration(), equalTo(Duration.ofSeconds(60)));
+        assertThat(config.getWarmup(), equalTo(Duration.ofSeconds(10)));
+        assertThat(config.getKeyDistribution(), equalTo("uniform"));
+        assertThat(config.getHttpVersion(), equalTo(HttpClient.Version.HTTP_1_1));
+        assertThat(config.getOutputDir(), equalTo(Path.of("target/loadgen")));
+    }
+
+    @Test
+    public void testFromArgs_FileWithOverrides() throws Exception {
+        Path file = tempDir.resolve("workload.properties");
+        Files.writeString(file, """
+                rate=500
+                durationSeconds=120
+                keyDistribution=zipfian
+                keySpace=10000
+                runName=from-file
+                """);
+
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(new String[] {"rate=250", "config=" + file, "runName=baseline"});
+
+        assertThat(config.getRate(), equalTo(250.0));
+        assertThat(config.getDuration(), equalTo(Duration.ofSeconds(120)));
+        assertThat(config.getKeyDistribution(), equalTo("zipfian"));
+        assertThat(config.getKeySpace(), equalTo(10000));
+        assertThat(config.getRunName(), equalTo("baseline"));
+    }
+
+    @Test
+    public void testFromArgs_InvalidArgument() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorConfig.fromArgs(new String[] {"rate"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorConfig.fromArgs(new String[] {"=100"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorConfig.fromArgs(new String[] {"rate=fast"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorConfig.fromArgs(new String[] {"httpVersion=HTTP_3"}));
+    }
+
+    @Test
+    public void testFromProperties_InvalidValues() {
+        assertInvalid("rate", "0");
+        assertInvalid("rate", "-1");
+        assertInvalid("rate", "2000000000");
+        assertInvalid("durationSeconds", "-1");
+        assertInvalid("warmupSeconds", "-1");
+        assertInvalid("keySpace", "0");
+        assertInvalid("requestTimeoutSeconds", "0");
+    }
+
+    private static void assertInvalid(String key, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(key, value);
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorConfig.fromProperties(properties));
+    }
+}
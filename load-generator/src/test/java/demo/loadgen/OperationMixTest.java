@@ -0,0 +1,45 @@
+package demo.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OperationMixTest {
+
+    @Test
+    public void testNext_FollowsWeights() {
+        OperationMix mix = OperationMix.parse("create:10, get:70, update:15, delete:5");
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        int samples = 100_000;
+
+        for(int i = 0; i < samples; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat((double) counts.get(Operation.CREATE) / samples, closeTo(0.10, 0.01));
+        assertThat((double) counts.get(Operation.GET) / samples, closeTo(0.70, 0.01));
+        assertThat((double) counts.get(Operation.UPDATE) / samples, closeTo(0.15, 0.01));
+        assertThat((double) counts.get(Operation.DELETE) / samples, closeTo(0.05, 0.01));
+    }
+
+    @Test
+    public void testNext_SingleOperation() {
+        OperationMix mix = OperationMix.parse("get:1");
+        assertThat(mix.next(new SplittableRandom(42)), equalTo(Operation.GET));
+    }
+
+    @Test
+    public void testParse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read:10"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get:0"));
+    }
+}
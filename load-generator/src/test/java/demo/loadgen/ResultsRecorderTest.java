@@ -0,0 +1,88 @@
+package demo.loadgen;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ResultsRecorderTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @TempDir
+    private Path outputDir;
+
+    @Test
+    public void testClose_WritesResults() throws Exception {
+        try(ResultsRecorder recorder = new ResultsRecorder(outputDir, "test")) {
+            // Scheduled at 0, sent 5ms late and completed after a further 5ms.
+            recorder.record(Operation.GET, 0, 5 * MILLIS, 10 * MILLIS, 200);
+            recorder.record(Operation.GET, 0, 0, 20 * MILLIS, 404);
+            recorder.writeInterval();
+            recorder.record(Operation.CREATE, 0, 0, 30 * MILLIS, 201);
+            recorder.record(Operation.DELETE, 0, 0, 40 * MILLIS, 500);
+            recorder.record(Operation.DELETE, 0, 0, 50 * MILLIS, ResultsRecorder.FAILED_REQUEST);
+        }
+
+        List<String> summary = Files.readAllLines(outputDir.resolve("test-summary.csv"));
+        assertThat(summary.get(0), equalTo("operation,count,successes,notFounds,errors,responseP50Ms,responseP90Ms,responseP99Ms,responseP999Ms,responseMaxMs,serviceP50Ms,serviceP99Ms,serviceMaxMs"));
+        Map<String, String[]> rows = new HashMap<>();
+        summary.stream().skip(1).map(line -> line.split(",")).forEach(row -> rows.put(row[0], row));
+        assertThat(rows.keySet().size(), equalTo(Operation.values().length));
+        assertCounts(rows.get("create"), 1, 1, 0, 0);
+        assertCounts(rows.get("get"), 2, 1, 1, 0);
+        assertCounts(rows.get("update"), 0, 0, 0, 0);
+        assertCounts(rows.get("delete"), 2, 0, 0, 2);
+        assertThat(Double.parseDouble(rows.get("get")[9]), closeTo(20.0, 0.1));
+
+        Map<String, Histogram> responseTimes = readTaggedLog(outputDir.resolve("test-response.hlog"));
+        assertThat(responseTimes.get("get").getTotalCount(), equalTo(2L));
+        assertThat(responseTimes.get("get").getMinValue(), equalTo(TimeUnit.MILLISECONDS.toMicros(10)));
+        assertThat(responseTimes.get("create").getTotalCount(), equalTo(1L));
+        assertThat(responseTimes.get("delete").getTotalCount(), equalTo(2L));
+        assertThat(responseTimes.containsKey("update"), equalTo(false));
+
+        // Service time excludes the 5ms the request was sent behind schedule.
+        Map<String, Histogram> serviceTimes = readTaggedLog(outputDir.resolve("test-service.hlog"));
+        assertThat(serviceTimes.get("get").getMinValue(), equalTo(TimeUnit.MILLISECONDS.toMicros(5)));
+
+        for(Operation operation : Operation.values()) {
+            String distribution = Files.readString(outputDir.resolve("test-" + operation.tag() + ".hgrm"));
+            assertThat(distribution, containsString("Value     Percentile TotalCount 1/(1-Percentile)"));
+        }
+    }
+
+    private static void assertCounts(String[] row, long count, long successes, long notFounds, long errors) {
+        assertThat(Long.parseLong(row[1]), equalTo(count));
+        assertThat(Long.parseLong(row[2]), equalTo(successes));
+        assertThat(Long.parseLong(row[3]), equalTo(notFounds));
+        assertThat(Long.parseLong(row[4]), equalTo(errors));
+    }
+
+    private static Map<String, Histogram> readTaggedLog(Path log) throws Exception {
+        Map<String, Histogram> histograms = new HashMap<>();
+        HistogramLogReader reader = new HistogramLogReader(log.toFile());
+        try {
+            EncodableHistogram interval;
+            while((interval = reader.nextIntervalHistogram()) != null) {
+                histograms.computeIfAbsent(interval.getTag(), tag -> new Histogram(3)).add((Histogram) interval);
+            }
+        } finally {
+            reader.close();
+        }
+        return histograms;
+    }
+}
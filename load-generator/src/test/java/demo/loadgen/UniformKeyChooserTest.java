@@ -0,0 +1,37 @@
+package demo.loadgen;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UniformKeyChooserTest {
+
+    @Test
+    public void testNext_Uniform() {
+        int size = 10;
+        KeyChooser chooser = new UniformKeyChooser(size);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[size];
+        int samples = 100_000;
+
+        for(int i = 0; i < samples; i++) {
+            counts[chooser.next(random)]++;
+        }
+
+        for(int count : counts) {
+            assertThat((double) count / samples, closeTo(0.1, 0.01));
+        }
+    }
+
+    @Test
+    public void testOf() {
+        assertThat(KeyChooser.of("uniform", 10, 0.99), instanceOf(UniformKeyChooser.class));
+        assertThat(KeyChooser.of("zipfian", 10, 0.99), instanceOf(ZipfianKeyChooser.class));
+        assertThrows(IllegalArgumentException.class, () -> KeyChooser.of("gaussian", 10, 0.99));
+    }
+}
@@ -0,0 +1,33 @@
+package demo.loadgen;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ZipfianKeyChooserTest {
+
+    @Test
+    public void testNext_HotSet() {
+        int size = 1000;
+        KeyChooser chooser = new ZipfianKeyChooser(size, 0.99);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[size];
+        int samples = 100_000;
+
+        for(int i = 0; i < samples; i++) {
+            int slot = chooser.next(random);
+            assertThat(slot, greaterThan(-1));
+            assertThat(slot, lessThan(size));
+            counts[slot]++;
+        }
+
+        // Slot 0 is chosen twice as often as slot 1 and ten times as often as slot 9.
+        assertThat((double) counts[0] / counts[1], closeTo(2.0, 0.2));
+        assertThat((double) counts[0] / counts[9], closeTo(10.0, 2.0));
+    }
+}
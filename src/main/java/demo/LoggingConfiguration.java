@@ -0,0 +1,31 @@
+package demo;
+
+import demo.logging.LogSamplingInterceptor;
+import demo.logging.LogSamplingProperties;
+import demo.logging.LoggingMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@EnableConfigurationProperties(LogSamplingProperties.class)
+@Configuration
+public class LoggingConfiguration implements WebMvcConfigurer {
+
+    private final LogSamplingProperties logSamplingProperties;
+
+    public LoggingConfiguration(LogSamplingProperties logSamplingProperties) {
+        this.logSamplingProperties = logSamplingProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LogSamplingInterceptor(logSamplingProperties));
+    }
+
+    @Bean
+    public LoggingMetrics loggingMetrics() {
+        return new LoggingMetrics();
+    }
+}
@@ -0,0 +1,23 @@
+package demo;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Active with the 'optimized' profile.  Spring Boot registers any Jackson Module bean with the auto-configured
+ * ObjectMapper, so the Blackbird module replaces reflective property access on the REST DTOs with generated lambdas.
+ *
+ * HTTP/2 for this profile is configured in application-optimized.yml.
+ */
+@Profile("optimized")
+@Configuration
+public class OptimizedWebConfiguration {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,33 @@
+package demo.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender that counts the events it discards, either because the queue has dropped below the discarding
+ * threshold (INFO and lower only) or because the queue is full and the appender is configured never to block.
+ *
+ * The checks mirror those made by AsyncAppenderBase, which does not expose its own count.  As the queue is drained
+ * concurrently the count is best effort.
+ */
+public class DroppedEventCountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remainingCapacity = getRemainingCapacity();
+        if((remainingCapacity < getDiscardingThreshold() && isDiscardable(event))
+                || (isNeverBlock() && remainingCapacity == 0)) {
+            droppedEvents.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+}
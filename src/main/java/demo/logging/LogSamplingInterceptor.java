@@ -0,0 +1,35 @@
+package demo.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Decides per request whether its success logs are written, using the sampling rate configured for the endpoint.
+ * The decision is held in the MDC for the SampledLogTurboFilter.
+ */
+@RequiredArgsConstructor
+public class LogSamplingInterceptor implements HandlerInterceptor {
+
+    private final LogSamplingProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        double rate = handler instanceof HandlerMethod handlerMethod
+                ? properties.getRate(handlerMethod.getMethod().getName())
+                : properties.getDefaultRate();
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < rate;
+        MDC.put(SampledLogTurboFilter.MDC_SAMPLED_KEY, String.valueOf(sampled));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(SampledLogTurboFilter.MDC_SAMPLED_KEY);
+    }
+}
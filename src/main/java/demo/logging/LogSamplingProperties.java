@@ -0,0 +1,24 @@
+package demo.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fraction of requests, between 0.0 and 1.0, for which success logs are written.  Rates are keyed by the name of the
+ * handling controller method, for example 'getItem'.
+ */
+@Data
+@ConfigurationProperties("demo.logging.sampling")
+public class LogSamplingProperties {
+
+    private double defaultRate = 1.0;
+
+    private Map<String, Double> rates = new HashMap<>();
+
+    public double getRate(String endpoint) {
+        return rates.getOrDefault(endpoint, defaultRate);
+    }
+}
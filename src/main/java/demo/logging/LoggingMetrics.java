@@ -0,0 +1,35 @@
+package demo.logging;
+
+import java.util.Iterator;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the 'logging.events.dropped' counter for each DroppedEventCountingAsyncAppender attached to the root
+ * logger.
+ */
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if(!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while(appenders.hasNext()) {
+            if(appenders.next() instanceof DroppedEventCountingAsyncAppender appender) {
+                FunctionCounter.builder("logging.events.dropped", appender, DroppedEventCountingAsyncAppender::getDroppedEventCount)
+                        .description("Log events discarded by the async appender")
+                        .tag("appender", appender.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Denies INFO and lower log statements made while handling a request that was not selected for logging by the
+ * LogSamplingInterceptor.  WARN and ERROR statements, such as those for items not found, are always logged.
+ *
+ * As a turbo filter this runs before the logging event is created, so a sampled out statement costs only the MDC
+ * lookup.
+ */
+public class SampledLogTurboFilter extends TurboFilter {
+
+    public static final String MDC_SAMPLED_KEY = "logSampled";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if(level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return Boolean.FALSE.toString().equals(MDC.get(MDC_SAMPLED_KEY)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
@@ -34,7 +34,7 @@ public class ItemService {
     public void updateItem(String itemId, UpdateItemRequest request) {
         Optional<Item> itemOpt = itemRepository.findById(itemId);
         if(itemOpt.isPresent()) {
-            log.info("Found item with id: " + itemId);
+            log.info("Found item with id: {}", itemId);
             Item item = itemOpt.get();
             item.setName(request.getName());
             itemRepository.save(item);
@@ -0,0 +1,57 @@
+package demo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import demo.rest.api.CreateItemRequest;
+import demo.rest.api.GetItemResponse;
+import demo.rest.api.UpdateItemRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+public class OptimizedWebConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(OptimizedWebConfiguration.class);
+
+    @Test
+    public void testOptimizedProfile_RegistersBlackbird() {
+        contextRunner.withPropertyValues("spring.profiles.active=optimized").run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            assertThat(objectMapper.getRegisteredModuleIds(), hasItem(new BlackbirdModule().getTypeId()));
+        });
+    }
+
+    @Test
+    public void testDefaultProfile_DoesNotRegisterBlackbird() {
+        contextRunner.run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            assertThat(objectMapper.getRegisteredModuleIds(), not(hasItem(new BlackbirdModule().getTypeId())));
+        });
+    }
+
+    @Test
+    public void testOptimizedProfile_RoundTripsDtos() {
+        contextRunner.withPropertyValues("spring.profiles.active=optimized").run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            GetItemResponse response = GetItemResponse.builder().id("653d06f08faa89580090466e").name("test-item").build();
+            String json = objectMapper.writeValueAsString(response);
+            assertThat(json, equalTo("{\"id\":\"653d06f08faa89580090466e\",\"name\":\"test-item\"}"));
+            assertThat(objectMapper.readValue(json, GetItemResponse.class), equalTo(response));
+
+            CreateItemRequest createRequest = objectMapper.readValue("{\"name\":\"test-item\"}", CreateItemRequest.class);
+            assertThat(createRequest, equalTo(CreateItemRequest.builder().name("test-item").build()));
+
+            UpdateItemRequest updateRequest = objectMapper.readValue("{\"name\":\"test-item-update\"}", UpdateItemRequest.class);
+            assertThat(updateRequest, equalTo(UpdateItemRequest.builder().name("test-item-update").build()));
+        });
+    }
+}
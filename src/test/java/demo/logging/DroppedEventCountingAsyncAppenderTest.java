@@ -0,0 +1,99 @@
+package demo.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class DroppedEventCountingAsyncAppenderTest {
+
+    private LoggerContext loggerContext;
+    private BlockingAppender downstream;
+    private DroppedEventCountingAsyncAppender appender;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        downstream = new BlockingAppender();
+        downstream.setContext(loggerContext);
+        downstream.start();
+
+        appender = new DroppedEventCountingAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("ASYNC");
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(downstream);
+        appender.start();
+
+        // Block the worker on the downstream appender so the queue fills deterministically.
+        appender.doAppend(event(Level.WARN, "blocker"));
+        assertThat(downstream.entered.await(5, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        downstream.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    public void testAppend_CountsDroppedEvents() {
+        appender.doAppend(event(Level.INFO, "info-1"));
+        appender.doAppend(event(Level.INFO, "info-2"));
+        appender.doAppend(event(Level.INFO, "info-3"));
+        assertThat(appender.getDroppedEventCount(), equalTo(0L));
+
+        // Remaining capacity (1) is below the discarding threshold (2): INFO is dropped, WARN is kept.
+        appender.doAppend(event(Level.INFO, "info-4"));
+        assertThat(appender.getDroppedEventCount(), equalTo(1L));
+        appender.doAppend(event(Level.WARN, "warn-1"));
+        assertThat(appender.getDroppedEventCount(), equalTo(1L));
+
+        // Queue is full: all events are dropped.
+        appender.doAppend(event(Level.WARN, "warn-2"));
+        appender.doAppend(event(Level.ERROR, "error-1"));
+        assertThat(appender.getDroppedEventCount(), equalTo(3L));
+
+        downstream.release.countDown();
+        appender.stop();
+        assertThat(downstream.messages, contains("blocker", "info-1", "info-2", "info-3", "warn-1"));
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), loggerContext.getLogger("test"), level, message, null, null);
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getMessage());
+            entered.countDown();
+            try {
+                release.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
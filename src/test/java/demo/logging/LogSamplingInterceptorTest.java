@@ -0,0 +1,66 @@
+package demo.logging;
+
+import java.util.Map;
+
+import demo.controller.ItemController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+public class LogSamplingInterceptorTest {
+
+    private LogSamplingProperties properties;
+    private LogSamplingInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new LogSamplingProperties();
+        interceptor = new LogSamplingInterceptor(properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MDC.remove(SampledLogTurboFilter.MDC_SAMPLED_KEY);
+    }
+
+    @Test
+    public void testPreHandle_EndpointRate() throws Exception {
+        properties.setRates(Map.of("getItem", 0.0));
+
+        interceptor.preHandle(mock(HttpServletRequest.class), mock(HttpServletResponse.class), handlerMethod("getItem"));
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_SAMPLED_KEY), equalTo("false"));
+    }
+
+    @Test
+    public void testPreHandle_DefaultRate() throws Exception {
+        properties.setRates(Map.of("getItem", 0.0));
+
+        interceptor.preHandle(mock(HttpServletRequest.class), mock(HttpServletResponse.class), handlerMethod("deleteItem"));
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_SAMPLED_KEY), equalTo("true"));
+    }
+
+    @Test
+    public void testAfterCompletion() throws Exception {
+        HandlerMethod handler = handlerMethod("getItem");
+        interceptor.preHandle(mock(HttpServletRequest.class), mock(HttpServletResponse.class), handler);
+
+        interceptor.afterCompletion(mock(HttpServletRequest.class), mock(HttpServletResponse.class), handler, null);
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_SAMPLED_KEY), nullValue());
+    }
+
+    private HandlerMethod handlerMethod(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(mock(ItemController.class), ItemController.class.getMethod(methodName, String.class));
+    }
+}
@@ -0,0 +1,65 @@
+package demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class LoggingMetricsTest {
+
+    private Logger rootLogger;
+    private DroppedEventCountingAsyncAppender appender;
+
+    @BeforeEach
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        rootLogger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        ConsoleAppender<ILoggingEvent> downstream = new ConsoleAppender<>();
+        downstream.setContext(loggerContext);
+
+        // A discarding threshold above the queue size discards every INFO event.
+        appender = new DroppedEventCountingAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("TEST_ASYNC");
+        appender.setQueueSize(1);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(downstream);
+        appender.start();
+        rootLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        rootLogger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    public void testBindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new LoggingMetrics().bindTo(registry);
+
+        FunctionCounter counter = registry.find("logging.events.dropped").tag("appender", "TEST_ASYNC").functionCounter();
+        assertThat(counter, notNullValue());
+        assertThat(counter.count(), equalTo(0.0));
+
+        appender.doAppend(new LoggingEvent(getClass().getName(), rootLogger, Level.INFO, "dropped", null, null));
+        appender.doAppend(new LoggingEvent(getClass().getName(), rootLogger, Level.INFO, "dropped", null, null));
+
+        assertThat(counter.count(), equalTo(2.0));
+    }
+}
@@ -0,0 +1,51 @@
+package demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SampledLogTurboFilterTest {
+
+    private SampledLogTurboFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        filter = new SampledLogTurboFilter();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MDC.remove(SampledLogTurboFilter.MDC_SAMPLED_KEY);
+    }
+
+    @Test
+    public void testDecide_Sampled() {
+        MDC.put(SampledLogTurboFilter.MDC_SAMPLED_KEY, "true");
+        assertThat(filter.decide(null, null, Level.INFO, "msg", null, null), equalTo(FilterReply.NEUTRAL));
+    }
+
+    @Test
+    public void testDecide_NotSampled() {
+        MDC.put(SampledLogTurboFilter.MDC_SAMPLED_KEY, "false");
+        assertThat(filter.decide(null, null, Level.INFO, "msg", null, null), equalTo(FilterReply.DENY));
+        assertThat(filter.decide(null, null, Level.DEBUG, "msg", null, null), equalTo(FilterReply.DENY));
+    }
+
+    @Test
+    public void testDecide_NotSampled_WarnAndErrorAlwaysLogged() {
+        MDC.put(SampledLogTurboFilter.MDC_SAMPLED_KEY, "false");
+        assertThat(filter.decide(null, null, Level.WARN, "msg", null, null), equalTo(FilterReply.NEUTRAL));
+        assertThat(filter.decide(null, null, Level.ERROR, "msg", null, null), equalTo(FilterReply.NEUTRAL));
+    }
+
+    @Test
+    public void testDecide_OutsideRequest() {
+        assertThat(filter.decide(null, null, Level.INFO, "msg", null, null), equalTo(FilterReply.NEUTRAL));
+    }
+}